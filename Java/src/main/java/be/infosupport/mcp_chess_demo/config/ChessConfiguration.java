@@ -43,11 +43,18 @@ public class ChessConfiguration {
     /** HTTP client timeout in seconds */
     private int timeoutSeconds = 30;
 
+    /** Overall deadline in seconds for the parallel requests of the player overview */
+    private int overviewTimeoutSeconds = 10;
+
     /** Maximum number of retries for failed requests */
     private int maxRetries = 3;
 
     public Duration getTimeout() {
       return Duration.ofSeconds(timeoutSeconds);
     }
+
+    public Duration getOverviewTimeout() {
+      return Duration.ofSeconds(overviewTimeoutSeconds);
+    }
   }
 }
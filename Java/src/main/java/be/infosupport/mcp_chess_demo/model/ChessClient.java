@@ -1,6 +1,11 @@
 package be.infosupport.mcp_chess_demo.model;
 
 import be.infosupport.mcp_chess_demo.config.ChessConfiguration;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -81,4 +86,103 @@ public class ChessClient {
           e);
     }
   }
+
+  /**
+   * Fetch profile, statistics, clubs and daily games of a player in parallel
+   *
+   * <p>The four requests are subscribed together and share one overall deadline, so the call takes
+   * as long as the slowest endpoint rather than the sum of all of them. An endpoint that fails or
+   * misses the deadline leaves its part null and is reported in the overview failures.
+   *
+   * @param username The chess.com username (case-insensitive)
+   * @return Chess player overview, with null parts for data that is not available
+   * @throws IllegalArgumentException if username is null or empty
+   */
+  public ChessPlayerOverview getPlayerOverview(String username) {
+    if (username == null || username.trim().isEmpty()) {
+      throw new IllegalArgumentException("Username cannot be null or empty");
+    }
+
+    String normalizedUsername = username.trim().toLowerCase();
+    Duration deadline = chessProperties.getOverviewTimeout();
+    log.debug("Fetching chess overview for user: {}", normalizedUsername);
+
+    return Mono.zip(
+            fetchPart(
+                "/player/{username}",
+                ChessPlayerProfile.class,
+                "profile",
+                normalizedUsername,
+                deadline),
+            fetchPart(
+                "/player/{username}/stats",
+                ChessPlayerStats.class,
+                "stats",
+                normalizedUsername,
+                deadline),
+            fetchPart(
+                "/player/{username}/clubs",
+                ChessPlayerClubs.class,
+                "clubs",
+                normalizedUsername,
+                deadline),
+            fetchPart(
+                "/player/{username}/games",
+                ChessPlayerGames.class,
+                "games",
+                normalizedUsername,
+                deadline))
+        .map(
+            parts -> {
+              List<String> failures =
+                  Stream.of(parts.getT1(), parts.getT2(), parts.getT3(), parts.getT4())
+                      .map(OverviewPart::failure)
+                      .filter(Objects::nonNull)
+                      .toList();
+              return new ChessPlayerOverview(
+                  parts.getT1().value(),
+                  parts.getT2().value(),
+                  parts.getT3().value(),
+                  parts.getT4().value(),
+                  failures);
+            })
+        .doOnSuccess(
+            overview ->
+                log.debug(
+                    "Fetched overview for user {} with {} failed part(s)",
+                    normalizedUsername,
+                    overview.failures().size()))
+        .block();
+  }
+
+  /** Fetches one part of the overview, turning a missing player or any failure into a value */
+  private <T> Mono<OverviewPart<T>> fetchPart(
+      String uri, Class<T> type, String part, String username, Duration deadline) {
+    return chessWebClient
+        .get()
+        .uri(uri, username)
+        .retrieve()
+        .bodyToMono(type)
+        .timeout(deadline)
+        .map(value -> new OverviewPart<>(value, null))
+        .defaultIfEmpty(new OverviewPart<T>(null, null))
+        .onErrorResume(
+            WebClientResponseException.NotFound.class,
+            ex -> {
+              log.warn("Chess player {} for '{}' not found", part, username);
+              return Mono.just(new OverviewPart<T>(null, null));
+            })
+        .onErrorResume(
+            ex -> {
+              String reason =
+                  ex instanceof TimeoutException
+                      ? "timed out"
+                      : ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+              log.error("Error fetching {} for user {}: {}", part, username, reason);
+              return Mono.just(new OverviewPart<T>(null, part + ": " + reason));
+            });
+  }
+
+  /** Outcome of a single overview request: either a (possibly null) value or a failure reason */
+  private record OverviewPart<T>(T value, String failure) {}
 }
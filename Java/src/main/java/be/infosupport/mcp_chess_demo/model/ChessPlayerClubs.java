@@ -0,0 +1,14 @@
+package be.infosupport.mcp_chess_demo.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/** Clubs a chess player is a member of, from chess.com API */
+public record ChessPlayerClubs(@JsonProperty("clubs") List<Club> clubs) {}
+
+/** Club membership information */
+record Club(
+    @JsonProperty("name") String name,
+    @JsonProperty("url") String url,
+    @JsonProperty("joined") Long joined,
+    @JsonProperty("last_activity") Long lastActivity) {}
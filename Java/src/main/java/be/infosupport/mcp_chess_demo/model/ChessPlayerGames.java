@@ -0,0 +1,19 @@
+package be.infosupport.mcp_chess_demo.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/** Daily games a chess player is currently playing, from chess.com API */
+public record ChessPlayerGames(@JsonProperty("games") List<DailyGame> games) {}
+
+/** Ongoing daily game, without the PGN and FEN to keep the payload compact */
+record DailyGame(
+    @JsonProperty("url") String url,
+    @JsonProperty("white") String white,
+    @JsonProperty("black") String black,
+    @JsonProperty("turn") String turn,
+    @JsonProperty("time_control") String timeControl,
+    @JsonProperty("rules") String rules,
+    @JsonProperty("rated") Boolean rated,
+    @JsonProperty("move_by") Long moveBy,
+    @JsonProperty("last_activity") Long lastActivity) {}
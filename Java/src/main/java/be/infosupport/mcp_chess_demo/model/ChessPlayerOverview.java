@@ -0,0 +1,14 @@
+package be.infosupport.mcp_chess_demo.model;
+
+import java.util.List;
+
+/**
+ * Merged profile, statistics, clubs and daily games of a chess player. Parts that could not be
+ * fetched are null and described in {@code failures}.
+ */
+public record ChessPlayerOverview(
+    ChessPlayerProfile profile,
+    ChessPlayerStats stats,
+    ChessPlayerClubs clubs,
+    ChessPlayerGames games,
+    List<String> failures) {}
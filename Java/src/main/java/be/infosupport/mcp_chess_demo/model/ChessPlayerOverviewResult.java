@@ -0,0 +1,9 @@
+package be.infosupport.mcp_chess_demo.model;
+
+/** Result object returned by chess player overview tool */
+public record ChessPlayerOverviewResult(
+    String username,
+    boolean success,
+    String error,
+    ChessPlayerOverview overview,
+    String summary) {}
@@ -0,0 +1,17 @@
+package be.infosupport.mcp_chess_demo.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** Public profile of a chess player from chess.com API */
+public record ChessPlayerProfile(
+    @JsonProperty("username") String username,
+    @JsonProperty("name") String name,
+    @JsonProperty("title") String title,
+    @JsonProperty("followers") Integer followers,
+    @JsonProperty("country") String country,
+    @JsonProperty("location") String location,
+    @JsonProperty("status") String status,
+    @JsonProperty("league") String league,
+    @JsonProperty("joined") Long joined,
+    @JsonProperty("last_online") Long lastOnline,
+    @JsonProperty("url") String url) {}
@@ -54,17 +54,112 @@ public class ChessTools {
     }
   }
 
-    //Add a tool that gets the clubs of a player from chess.com
-    //https://api.chess.com/pub/player/{username}/clubs
+  /**
+   * Gets an overview of a player from Chess.com combining profile, ratings, clubs and ongoing daily
+   * games in a single call
+   */
+  @Tool(
+      name = "get_chess_player_overview",
+      description =
+          "Gets an overview of a player from Chess.com combining profile, ratings, clubs and ongoing daily games in a single call. Parts that cannot be fetched are left out and reported in the summary")
+  public ChessPlayerOverviewResult getChessPlayerOverview(String username) {
+    log.info("Fetching chess player overview for: {}", username);
+
+    try {
+      ChessPlayerOverview overview = chessClient.getPlayerOverview(username);
+
+      if (overview.profile() == null
+          && overview.stats() == null
+          && overview.clubs() == null
+          && overview.games() == null) {
+        String error =
+            overview.failures().isEmpty()
+                ? "No data found for this player"
+                : "Failed to fetch chess overview: " + String.join("; ", overview.failures());
+        log.warn("No overview data for player {}: {}", username, error);
+        return new ChessPlayerOverviewResult(username, false, error, null, null);
+      }
+
+      String summary = createOverviewSummary(username, overview);
+      log.debug("Successfully created overview summary for: {}", username);
 
-    //Add a tool that gets the live daily games of a player from chess.com
-    //https://api.chess.com/pub/player/{username}/games
+      return new ChessPlayerOverviewResult(username, true, null, overview, summary);
+
+    } catch (IllegalArgumentException e) {
+      log.error("Invalid username provided: {}", username, e);
+      return new ChessPlayerOverviewResult(
+          username, false, "Invalid username: " + e.getMessage(), null, null);
+    } catch (Exception e) {
+      log.error("Error fetching chess overview for {}: {}", username, e.getMessage(), e);
+      return new ChessPlayerOverviewResult(
+          username, false, "Failed to fetch chess overview: " + e.getMessage(), null, null);
+    }
+  }
 
   /** Creates a human-readable summary of chess player statistics */
   private String createStatsSummary(String username, ChessPlayerStats stats) {
     List<String> summary = new ArrayList<>();
     summary.add("Chess Player Statistics Summary for " + username + ":");
+    addStatsLines(summary, stats);
+    return String.join("\n", summary);
+  }
+
+  /** Creates a human-readable summary of the merged chess player overview */
+  private String createOverviewSummary(String username, ChessPlayerOverview overview) {
+    List<String> summary = new ArrayList<>();
+    summary.add("Chess Player Overview for " + username + ":");
+
+    var profile = overview.profile();
+    if (profile != null) {
+      String name = profile.name() != null ? profile.name() : profile.username();
+      summary.add(
+          String.format(
+              "• Profile: %s%s, %d followers%s",
+              name,
+              profile.title() != null ? " (" + profile.title() + ")" : "",
+              profile.followers() != null ? profile.followers() : 0,
+              profile.status() != null ? ", " + profile.status() : ""));
+      if (profile.lastOnline() != null) {
+        summary.add("• Last online: " + formatDate(profile.lastOnline()));
+      }
+    }
+
+    if (overview.stats() != null) {
+      addStatsLines(summary, overview.stats());
+    }
+
+    var clubs = overview.clubs() != null ? overview.clubs().clubs() : null;
+    if (clubs != null) {
+      List<String> clubNames = clubs.stream().limit(5).map(Club::name).toList();
+      summary.add(
+          String.format(
+              "• Clubs: %d%s",
+              clubs.size(),
+              clubs.isEmpty()
+                  ? ""
+                  : " (" + String.join(", ", clubNames) + (clubs.size() > 5 ? ", ..." : "") + ")"));
+    }
 
+    var games = overview.games() != null ? overview.games().games() : null;
+    if (games != null) {
+      summary.add(String.format("• Ongoing daily games: %d", games.size()));
+    }
+
+    if (!overview.failures().isEmpty()) {
+      summary.add("• Unavailable: " + String.join("; ", overview.failures()));
+    }
+
+    return String.join("\n", summary);
+  }
+
+  /** Formats an epoch timestamp in seconds as a UTC date */
+  private String formatDate(long epochSeconds) {
+    return DateTimeFormatter.ISO_LOCAL_DATE.format(
+        Instant.ofEpochSecond(epochSeconds).atZone(ZoneId.of("UTC")));
+  }
+
+  /** Adds one line per rated time control, tactics and puzzle rush to the summary */
+  private void addStatsLines(List<String> summary, ChessPlayerStats stats) {
     if (stats.chessRapid() != null && stats.chessRapid().last() != null) {
       var rapid = stats.chessRapid();
       summary.add(
@@ -117,7 +212,5 @@ public class ChessTools {
       summary.add(
           String.format("• Puzzle Rush: %d (best score)", stats.puzzleRush().best().score()));
     }
-
-        return String.join("\n", summary);
   }
 }
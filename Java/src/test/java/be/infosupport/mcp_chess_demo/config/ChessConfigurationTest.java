@@ -18,6 +18,7 @@ import org.springframework.web.reactive.function.client.WebClient;
       "chess.api-base-url=https://test.chess.com/api",
       "chess.user-agent=Test Chess MCP Server 2.0",
       "chess.timeout-seconds=60",
+      "chess.overview-timeout-seconds=15",
       "chess.max-retries=5"
     })
 class ChessConfigurationTest {
@@ -34,6 +35,8 @@ class ChessConfigurationTest {
     assertThat(chessProperties.getTimeoutSeconds()).isEqualTo(60);
     assertThat(chessProperties.getMaxRetries()).isEqualTo(5);
     assertThat(chessProperties.getTimeout()).isEqualTo(Duration.ofSeconds(60));
+    assertThat(chessProperties.getOverviewTimeoutSeconds()).isEqualTo(15);
+    assertThat(chessProperties.getOverviewTimeout()).isEqualTo(Duration.ofSeconds(15));
   }
 
   @Test
@@ -54,6 +57,7 @@ class ChessConfigurationTest {
     assertThat(defaultProperties.getTimeoutSeconds()).isEqualTo(30);
     assertThat(defaultProperties.getMaxRetries()).isEqualTo(3);
     assertThat(defaultProperties.getTimeout()).isEqualTo(Duration.ofSeconds(30));
+    assertThat(defaultProperties.getOverviewTimeout()).isEqualTo(Duration.ofSeconds(10));
   }
 
   @Test
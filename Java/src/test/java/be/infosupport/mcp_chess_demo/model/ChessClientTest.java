@@ -0,0 +1,163 @@
+package be.infosupport.mcp_chess_demo.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import be.infosupport.mcp_chess_demo.config.ChessConfiguration;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/** Unit tests for the parallel player overview of ChessClient, using a stubbed exchange */
+class ChessClientTest {
+
+  private static final String PROFILE_JSON =
+      "{\"username\":\"hikaru\",\"name\":\"Hikaru Nakamura\",\"status\":\"premium\"}";
+  private static final String STATS_JSON =
+      "{\"chess_rapid\":{\"last\":{\"rating\":2800,\"date\":0,\"rd\":30}}}";
+  private static final String CLUBS_JSON = "{\"clubs\":[{\"name\":\"Team USA\"}]}";
+  private static final String GAMES_JSON = "{\"games\":[{\"url\":\"game\",\"turn\":\"white\"}]}";
+
+  @Test
+  void getPlayerOverview_AllEndpointsDelayed_TakesAboutAsLongAsSlowestEndpoint() {
+    // Given - the delays add up to 2800ms, the slowest endpoint takes 1000ms
+    ChessClient chessClient =
+        createChessClient(
+            2,
+            Map.of(
+                "/player/hikaru", StubResponse.ok(PROFILE_JSON, 400),
+                "/player/hikaru/stats", StubResponse.ok(STATS_JSON, 600),
+                "/player/hikaru/clubs", StubResponse.ok(CLUBS_JSON, 800),
+                "/player/hikaru/games", StubResponse.ok(GAMES_JSON, 1000)));
+
+    // When
+    long start = System.nanoTime();
+    ChessPlayerOverview overview = chessClient.getPlayerOverview("Hikaru");
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // Then
+    assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(1000));
+    assertThat(elapsed).isLessThan(Duration.ofMillis(2000));
+    assertThat(overview.profile().name()).isEqualTo("Hikaru Nakamura");
+    assertThat(overview.stats().chessRapid().last().ratingValue()).isEqualTo(2800);
+    assertThat(overview.clubs().clubs()).extracting(Club::name).containsExactly("Team USA");
+    assertThat(overview.games().games()).hasSize(1);
+    assertThat(overview.failures()).isEmpty();
+  }
+
+  @Test
+  void getPlayerOverview_SlowAndFailingEndpoints_ReturnsPartialOverviewWithinDeadline() {
+    // Given - clubs exceeds the 1 second deadline and games fails with a server error
+    ChessClient chessClient =
+        createChessClient(
+            1,
+            Map.of(
+                "/player/hikaru", StubResponse.ok(PROFILE_JSON, 100),
+                "/player/hikaru/stats", StubResponse.ok(STATS_JSON, 100),
+                "/player/hikaru/clubs", StubResponse.ok(CLUBS_JSON, 5000),
+                "/player/hikaru/games",
+                    new StubResponse(HttpStatus.INTERNAL_SERVER_ERROR, "{}", 100)));
+
+    // When
+    long start = System.nanoTime();
+    ChessPlayerOverview overview = chessClient.getPlayerOverview("hikaru");
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    // Then
+    assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofSeconds(1));
+    assertThat(elapsed).isLessThan(Duration.ofSeconds(3));
+    assertThat(overview.profile()).isNotNull();
+    assertThat(overview.stats()).isNotNull();
+    assertThat(overview.clubs()).isNull();
+    assertThat(overview.games()).isNull();
+    assertThat(overview.failures()).hasSize(2);
+    assertThat(overview.failures()).contains("clubs: timed out");
+    assertThat(overview.failures())
+        .anySatisfy(failure -> assertThat(failure).startsWith("games: 500"));
+  }
+
+  @Test
+  void getPlayerOverview_EndpointNotFound_ReturnsNullPartWithoutFailure() {
+    // Given
+    ChessClient chessClient =
+        createChessClient(
+            1,
+            Map.of(
+                "/player/hikaru", new StubResponse(HttpStatus.NOT_FOUND, "{}", 0),
+                "/player/hikaru/stats", StubResponse.ok(STATS_JSON, 0),
+                "/player/hikaru/clubs", StubResponse.ok(CLUBS_JSON, 0),
+                "/player/hikaru/games", StubResponse.ok(GAMES_JSON, 0)));
+
+    // When
+    ChessPlayerOverview overview = chessClient.getPlayerOverview("hikaru");
+
+    // Then
+    assertThat(overview.profile()).isNull();
+    assertThat(overview.stats()).isNotNull();
+    assertThat(overview.clubs()).isNotNull();
+    assertThat(overview.games()).isNotNull();
+    assertThat(overview.failures()).isEmpty();
+  }
+
+  @Test
+  void getPlayerOverview_ErrorWithoutMessage_ReportsExceptionType() {
+    // Given
+    ChessConfiguration.ChessProperties properties = new ChessConfiguration.ChessProperties();
+    WebClient webClient =
+        WebClient.builder()
+            .baseUrl(properties.getApiBaseUrl())
+            .exchangeFunction(
+                request ->
+                    request.url().getPath().endsWith("/games")
+                        ? Mono.error(new IllegalStateException())
+                        : Mono.just(StubResponse.ok("{}", 0).toClientResponse()))
+            .build();
+    ChessClient chessClient = new ChessClient(webClient, properties);
+
+    // When
+    ChessPlayerOverview overview = chessClient.getPlayerOverview("hikaru");
+
+    // Then
+    assertThat(overview.failures()).containsExactly("games: IllegalStateException");
+  }
+
+  private ChessClient createChessClient(
+      int overviewTimeoutSeconds, Map<String, StubResponse> responses) {
+    ChessConfiguration.ChessProperties properties = new ChessConfiguration.ChessProperties();
+    properties.setOverviewTimeoutSeconds(overviewTimeoutSeconds);
+
+    WebClient webClient =
+        WebClient.builder()
+            .baseUrl(properties.getApiBaseUrl())
+            .exchangeFunction(
+                request -> {
+                  String path = request.url().getPath().substring("/pub".length());
+                  StubResponse response = responses.get(path);
+                  return Mono.delay(Duration.ofMillis(response.delayMillis()))
+                      .map(tick -> response.toClientResponse());
+                })
+            .build();
+
+    return new ChessClient(webClient, properties);
+  }
+
+  /** Canned response for one endpoint, returned after the given delay */
+  private record StubResponse(HttpStatus status, String body, long delayMillis) {
+
+    static StubResponse ok(String body, long delayMillis) {
+      return new StubResponse(HttpStatus.OK, body, delayMillis);
+    }
+
+    ClientResponse toClientResponse() {
+      return ClientResponse.create(status)
+          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .body(body)
+          .build();
+    }
+  }
+}
@@ -3,6 +3,7 @@ package be.infosupport.mcp_chess_demo.model;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -123,6 +124,159 @@ class ChessToolsTest {
     assertThat(result.summary()).contains("Puzzle Rush: 45");
   }
 
+  @Test
+  void getChessPlayerOverview_AllPartsAvailable_ReturnsMergedSummary() {
+    // Given
+    String username = "chessmaster";
+    ChessPlayerOverview overview =
+        new ChessPlayerOverview(
+            createSampleProfile(),
+            createComprehensiveChessPlayerStats(),
+            new ChessPlayerClubs(List.of(new Club("Team Masters", null, null, null))),
+            new ChessPlayerGames(
+                List.of(
+                    new DailyGame(null, null, null, "white", "1/86400", null, true, null, null))),
+            List.of());
+    when(chessClient.getPlayerOverview(username)).thenReturn(overview);
+
+    // When
+    ChessPlayerOverviewResult result = chessTools.getChessPlayerOverview(username);
+
+    // Then
+    assertThat(result).isNotNull();
+    assertThat(result.success()).isTrue();
+    assertThat(result.username()).isEqualTo(username);
+    assertThat(result.overview()).isEqualTo(overview);
+    assertThat(result.error()).isNull();
+    assertThat(result.summary()).contains("Chess Player Overview for chessmaster");
+    assertThat(result.summary()).contains("Profile: Chess Master (GM), 1200 followers");
+    assertThat(result.summary()).contains("Rapid: 2200");
+    assertThat(result.summary()).contains("Clubs: 1 (Team Masters)");
+    assertThat(result.summary()).contains("Ongoing daily games: 1");
+    assertThat(result.summary()).doesNotContain("Unavailable");
+  }
+
+  @Test
+  void getChessPlayerOverview_PartialFailure_ReturnsAvailableParts() {
+    // Given
+    String username = "chessmaster";
+    ChessPlayerOverview overview =
+        new ChessPlayerOverview(
+            createSampleProfile(),
+            createSampleChessPlayerStats(),
+            null,
+            null,
+            List.of("clubs: timed out", "games: 500 Internal Server Error"));
+    when(chessClient.getPlayerOverview(username)).thenReturn(overview);
+
+    // When
+    ChessPlayerOverviewResult result = chessTools.getChessPlayerOverview(username);
+
+    // Then
+    assertThat(result).isNotNull();
+    assertThat(result.success()).isTrue();
+    assertThat(result.error()).isNull();
+    assertThat(result.summary()).contains("Rapid: 1500");
+    assertThat(result.summary()).doesNotContain("Clubs:");
+    assertThat(result.summary())
+        .contains("Unavailable: clubs: timed out; games: 500 Internal Server Error");
+  }
+
+  @Test
+  void getChessPlayerOverview_ProfileWithoutStatus_OmitsStatus() {
+    // Given
+    String username = "chessmaster";
+    ChessPlayerProfile profile =
+        new ChessPlayerProfile(
+            username, "Chess Master", null, 10, null, null, null, null, null, null, null);
+    when(chessClient.getPlayerOverview(username))
+        .thenReturn(new ChessPlayerOverview(profile, null, null, null, List.of()));
+
+    // When
+    ChessPlayerOverviewResult result = chessTools.getChessPlayerOverview(username);
+
+    // Then
+    assertThat(result.success()).isTrue();
+    assertThat(result.summary()).contains("• Profile: Chess Master, 10 followers");
+    assertThat(result.summary()).doesNotContain("null");
+  }
+
+  @Test
+  void getChessPlayerOverview_PlayerNotFound_ReturnsErrorResult() {
+    // Given
+    String username = "nonexistentuser";
+    when(chessClient.getPlayerOverview(username))
+        .thenReturn(new ChessPlayerOverview(null, null, null, null, List.of()));
+
+    // When
+    ChessPlayerOverviewResult result = chessTools.getChessPlayerOverview(username);
+
+    // Then
+    assertThat(result).isNotNull();
+    assertThat(result.success()).isFalse();
+    assertThat(result.overview()).isNull();
+    assertThat(result.summary()).isNull();
+    assertThat(result.error()).isEqualTo("No data found for this player");
+  }
+
+  @Test
+  void getChessPlayerOverview_AllPartsFailed_ReturnsErrorResult() {
+    // Given
+    String username = "testuser";
+    when(chessClient.getPlayerOverview(username))
+        .thenReturn(
+            new ChessPlayerOverview(
+                null,
+                null,
+                null,
+                null,
+                List.of(
+                    "profile: timed out",
+                    "stats: timed out",
+                    "clubs: timed out",
+                    "games: timed out")));
+
+    // When
+    ChessPlayerOverviewResult result = chessTools.getChessPlayerOverview(username);
+
+    // Then
+    assertThat(result).isNotNull();
+    assertThat(result.success()).isFalse();
+    assertThat(result.overview()).isNull();
+    assertThat(result.error()).contains("Failed to fetch chess overview");
+    assertThat(result.error()).contains("profile: timed out");
+  }
+
+  @Test
+  void getChessPlayerOverview_InvalidUsername_ReturnsErrorResult() {
+    // Given
+    when(chessClient.getPlayerOverview(" "))
+        .thenThrow(new IllegalArgumentException("Username cannot be null or empty"));
+
+    // When
+    ChessPlayerOverviewResult result = chessTools.getChessPlayerOverview(" ");
+
+    // Then
+    assertThat(result).isNotNull();
+    assertThat(result.success()).isFalse();
+    assertThat(result.error()).isEqualTo("Invalid username: Username cannot be null or empty");
+  }
+
+  private ChessPlayerProfile createSampleProfile() {
+    return new ChessPlayerProfile(
+        "chessmaster",
+        "Chess Master",
+        "GM",
+        1200,
+        null,
+        null,
+        "premium",
+        null,
+        null,
+        System.currentTimeMillis() / 1000,
+        null);
+  }
+
   private ChessPlayerStats createSampleChessPlayerStats() {
     Rating rapidRating = new Rating(1500, System.currentTimeMillis() / 1000, 50);
     GameStats rapidStats = new GameStats(rapidRating, null, null);